@@ -0,0 +1,71 @@
+package com.example.stackoverflow_auth_service.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide cache of Firebase ID tokens minted for the {@link TestConstants} identities.
+ *
+ * Each identity is signed in once and the token is reused by every test class. This assumes
+ * the minter ({@code BaseControllerTest#getAuthToken}) signs in against the Firebase test
+ * project, so a token does not depend on the Spring context that minted it or on whether
+ * that context mocks {@code FirebaseAuth}. If that stops holding, the cache must be keyed
+ * per context.
+ *
+ * Firebase ID tokens expire after an hour. A cached token is re-minted once it is older than
+ * {@link #MAX_TOKEN_AGE}, so a token returned by {@link #get} is valid for at least another
+ * ten minutes. Callers that hold on to a token for longer must call {@link #get} again.
+ */
+public final class TestTokenCache {
+
+    private static final Duration MAX_TOKEN_AGE = Duration.ofMinutes(50);
+
+    private static final Map<String, CachedToken> TOKENS = new ConcurrentHashMap<>();
+
+    private TestTokenCache() {
+    }
+
+    public static String get(String email, String password, TokenMinter minter) throws Exception {
+        CachedToken cached = TOKENS.get(email);
+        if (cached != null && !cached.isStale()) {
+            return cached.token();
+        }
+        try {
+            // compute() runs under the entry's lock, so each identity is minted only once
+            return TOKENS.compute(email, (key, current) -> {
+                if (current != null && !current.isStale()) {
+                    return current;
+                }
+                Instant mintedAt = Instant.now();
+                try {
+                    return new CachedToken(minter.mint(email, password), mintedAt);
+                } catch (Exception e) {
+                    throw new MintFailedException(e);
+                }
+            }).token();
+        } catch (MintFailedException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    public interface TokenMinter {
+        String mint(String email, String password) throws Exception;
+    }
+
+    private record CachedToken(String token, Instant mintedAt) {
+
+        boolean isStale() {
+            return mintedAt.plus(MAX_TOKEN_AGE).isBefore(Instant.now());
+        }
+    }
+
+    private static final class MintFailedException extends RuntimeException {
+
+        MintFailedException(Exception cause) {
+            super(cause);
+        }
+    }
+}
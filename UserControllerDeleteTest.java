@@ -5,6 +5,7 @@ import com.example.stackoverflow_auth_service.model.User;
 import com.example.stackoverflow_auth_service.model.UserRole;
 import com.example.stackoverflow_auth_service.util.TestConstants;
 import com.example.stackoverflow_auth_service.util.TestDataBuilder;
+import com.example.stackoverflow_auth_service.util.TestTokenCache;
 import com.google.firebase.auth.FirebaseAuth;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,8 +16,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.ResultActions;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
@@ -41,13 +40,6 @@ class UserControllerDeleteTest extends BaseControllerTest {
     private String regularUserToken;
     private String moderatorToken;
 
-    private void printDatabaseState() {
-        log.info("Current Database State:");
-        userRepository.findAll().forEach(user ->
-                log.info("User: ID={}, Email={}, Role={}",
-                        user.getId(), user.getEmail(), user.getRole()));
-    }
-
     @BeforeEach
     void setUp() throws Exception {
         log.info("Setting up test data");
@@ -79,33 +71,13 @@ class UserControllerDeleteTest extends BaseControllerTest {
         ));
         log.info("Moderator user created with ID: {}", moderatorUser.getId());
 
-        // Get admin token
-        adminToken = getAuthToken(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD);
-        regularUserToken = getAuthToken(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD);
-        moderatorToken = getAuthToken(TestConstants.MODERATOR_EMAIL, TestConstants.MODERATOR_PASSWORD);
-        log.info("Admin token obtained");
-
-        // Verify database state
-        printDatabaseState();
+        // Get tokens
+        adminToken = TestTokenCache.get(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD, this::getAuthToken);
+        regularUserToken = TestTokenCache.get(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD, this::getAuthToken);
+        moderatorToken = TestTokenCache.get(TestConstants.MODERATOR_EMAIL, TestConstants.MODERATOR_PASSWORD, this::getAuthToken);
 
         // Mock Firebase delete operation
         doNothing().when(firebaseAuth).deleteUser(anyString());
-
-        // or if you need to verify the call:
-//        when(firebaseAuth.deleteUser(anyString())).thenReturn(void.class);
-        // Add detailed logging
-        log.info("Created Users in H2:");
-        log.info("Admin User - ID: {}, Email: {}, FirebaseUID: {}",
-                adminUser.getId(), adminUser.getEmail(), adminUser.getFirebaseUid());
-        log.info("Regular User - ID: {}, Email: {}, FirebaseUID: {}",
-                regularUser.getId(), regularUser.getEmail(), regularUser.getFirebaseUid());
-
-        // Verify database content
-        List<User> allUsers = userRepository.findAll();
-        log.info("Total users in H2: {}", allUsers.size());
-        allUsers.forEach(user ->
-                log.info("User in DB - ID: {}, Email: {}, FirebaseUID: {}",
-                        user.getId(), user.getEmail(), user.getFirebaseUid()));
     }
 
     @Nested
@@ -115,12 +87,6 @@ class UserControllerDeleteTest extends BaseControllerTest {
         @Test
         @DisplayName("Admin should successfully delete a regular user")
         void adminShouldDeleteRegularUser() throws Exception {
-            // Print initial state
-            log.info("Initial database state:");
-            userRepository.findAll().forEach(u ->
-                    log.info("User: id={}, email={}, firebaseUid={}",
-                            u.getId(), u.getEmail(), u.getFirebaseUid()));
-
             assertTrue(userRepository.existsById(regularUser.getId()));
 
             mockMvc.perform(delete("/api/v1/users/" + regularUser.getId())
@@ -130,11 +96,6 @@ class UserControllerDeleteTest extends BaseControllerTest {
 
             assertFalse(userRepository.existsById(regularUser.getId()));
             log.info("Regular user successfully deleted");
-
-            // Print final state
-            log.info("Final database state:");
-            userRepository.findAll().forEach(u ->
-                    log.info("User: id={}, email={}", u.getId(), u.getEmail()));
         }
 
         @Test
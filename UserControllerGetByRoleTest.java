@@ -5,6 +5,7 @@ import com.example.stackoverflow_auth_service.model.User;
 import com.example.stackoverflow_auth_service.model.UserRole;
 import com.example.stackoverflow_auth_service.util.TestConstants;
 import com.example.stackoverflow_auth_service.util.TestDataBuilder;
+import com.example.stackoverflow_auth_service.util.TestTokenCache;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +13,6 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.List;
-
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -63,11 +62,11 @@ class UserControllerGetByRoleTest extends BaseControllerTest {
         ));
 
         // Get tokens
-        adminToken = getAuthToken(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD);
-        regularUserToken = getAuthToken(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD);
-        moderatorToken = getAuthToken(TestConstants.MODERATOR_EMAIL, TestConstants.MODERATOR_PASSWORD);
+        adminToken = TestTokenCache.get(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD, this::getAuthToken);
+        regularUserToken = TestTokenCache.get(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD, this::getAuthToken);
+        moderatorToken = TestTokenCache.get(TestConstants.MODERATOR_EMAIL, TestConstants.MODERATOR_PASSWORD, this::getAuthToken);
 
-        log.info("Test setup complete with {} users", userRepository.count());
+        log.info("Test setup complete");
     }
 
     @Nested
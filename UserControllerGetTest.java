@@ -6,6 +6,7 @@ import com.example.stackoverflow_auth_service.model.User;
 import com.example.stackoverflow_auth_service.model.UserRole;
 import com.example.stackoverflow_auth_service.util.TestConstants;
 import com.example.stackoverflow_auth_service.util.TestDataBuilder;
+import com.example.stackoverflow_auth_service.util.TestTokenCache;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -70,16 +71,12 @@ class UserControllerGetTest extends BaseControllerTest {
         ));
 
         // Get tokens
-        adminToken = getAuthToken(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD);
-        moderatorToken = getAuthToken(TestConstants.MODERATOR_EMAIL, TestConstants.MODERATOR_PASSWORD);
-        regularUserToken = getAuthToken(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD);
-        regularUser2Token = getAuthToken(TestConstants.USER2_EMAIL, TestConstants.USER2_PASSWORD);
-
-        // Log database state
-        log.info("Test data setup complete. Database state:");
-        userRepository.findAll().forEach(user ->
-                log.info("User: ID={}, Email={}, Role={}",
-                        user.getId(), user.getEmail(), user.getRole()));
+        adminToken = TestTokenCache.get(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD, this::getAuthToken);
+        moderatorToken = TestTokenCache.get(TestConstants.MODERATOR_EMAIL, TestConstants.MODERATOR_PASSWORD, this::getAuthToken);
+        regularUserToken = TestTokenCache.get(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD, this::getAuthToken);
+        regularUser2Token = TestTokenCache.get(TestConstants.USER2_EMAIL, TestConstants.USER2_PASSWORD, this::getAuthToken);
+
+        log.info("Test data setup complete");
     }
 
     @Nested
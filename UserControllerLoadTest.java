@@ -0,0 +1,322 @@
+package com.example.stackoverflow_auth_service.controller.user;
+
+import com.example.stackoverflow_auth_service.base.BaseControllerTest;
+import com.example.stackoverflow_auth_service.model.User;
+import com.example.stackoverflow_auth_service.model.UserRole;
+import com.example.stackoverflow_auth_service.util.TestConstants;
+import com.example.stackoverflow_auth_service.util.TestDataBuilder;
+import com.example.stackoverflow_auth_service.util.TestTokenCache;
+import com.google.firebase.auth.FirebaseAuth;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Macro load tests for the user endpoints against a large seeded H2 dataset.
+ *
+ * Disabled by default; run with {@code -Dload.enabled=true}. Volumes and concurrency
+ * are configured through system properties (see the constants below), and the dataset
+ * is seeded once per class. Results are compared against a baseline recorded for the
+ * same volumes and concurrency; record one explicitly with {@code -Dload.recordBaseline=true}.
+ * A run without a matching baseline fails.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+@DisplayName("User Load Tests")
+class UserControllerLoadTest extends BaseControllerTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 100_000);
+    private static final int MODERATORS = Integer.getInteger("load.moderators", USERS / 100);
+    private static final int SEED_BATCH_SIZE = Integer.getInteger("load.seedBatchSize", 1_000);
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 10_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmupRequests", 1_000);
+    private static final int ROLE_REQUESTS = Integer.getInteger("load.roleRequests", 50);
+    private static final int ROLE_WARMUP_REQUESTS = Integer.getInteger("load.roleWarmupRequests", 5);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+    private static final boolean RECORD_BASELINE = Boolean.getBoolean("load.recordBaseline");
+    private static final Path BASELINE = Paths.get(
+            System.getProperty("load.baseline", "src/test/resources/load-baseline.properties"));
+
+    @MockBean
+    private FirebaseAuth firebaseAuth;
+
+    private List<Long> readUserIds;
+    private List<Long> deleteUserIds;
+
+    @BeforeAll
+    void seedOnce() {
+        requirePositive("load.users", USERS);
+        requirePositive("load.threads", THREADS);
+        requirePositive("load.requests", REQUESTS);
+        requirePositive("load.roleRequests", ROLE_REQUESTS);
+        requirePositive("load.seedBatchSize", SEED_BATCH_SIZE);
+        requireNonNegative("load.warmupRequests", WARMUP_REQUESTS);
+        requireNonNegative("load.roleWarmupRequests", ROLE_WARMUP_REQUESTS);
+
+        log.info("Seeding {} users and {} moderators", USERS, MODERATORS);
+        long start = System.nanoTime();
+
+        userRepository.deleteAllInBatch();
+
+        userRepository.save(TestDataBuilder.createTestUser(
+                TestConstants.ADMIN_EMAIL,
+                TestConstants.ADMIN_UID,
+                UserRole.ADMIN
+        ));
+        userRepository.save(TestDataBuilder.createTestUser(
+                TestConstants.USER_EMAIL,
+                TestConstants.USER_UID,
+                UserRole.USER
+        ));
+
+        readUserIds = seed("load-user", USERS, UserRole.USER);
+        seed("load-moderator", MODERATORS, UserRole.MODERATOR);
+        // The delete scenario gets its own rows so it never eats into the read dataset
+        deleteUserIds = seed("load-delete", WARMUP_REQUESTS + REQUESTS, UserRole.USER);
+
+        log.info("Seeded {} users in {} ms", userRepository.count(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        // Leave the (possibly shared) H2 database empty for the rest of the suite
+        userRepository.deleteAllInBatch();
+        log.info("Load-test data removed");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        doNothing().when(firebaseAuth).deleteUser(anyString());
+    }
+
+    private String adminToken() {
+        return token(TestConstants.ADMIN_EMAIL, TestConstants.ADMIN_PASSWORD);
+    }
+
+    private String userToken() {
+        return token(TestConstants.USER_EMAIL, TestConstants.USER_PASSWORD);
+    }
+
+    /**
+     * Looks the token up for every request rather than once per scenario, so a run that
+     * outlives a token's lifetime picks up a freshly minted one instead of failing with 401.
+     */
+    private String token(String email, String password) {
+        try {
+            return TestTokenCache.get(email, password, this::getAuthToken);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not obtain token for " + email, e);
+        }
+    }
+
+    private static void requirePositive(String property, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(property + " must be at least 1, was " + value);
+        }
+    }
+
+    private static void requireNonNegative(String property, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(property + " must not be negative, was " + value);
+        }
+    }
+
+    private List<Long> seed(String prefix, int count, UserRole role) {
+        List<Long> ids = new ArrayList<>(count);
+        List<User> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(TestDataBuilder.createTestUser(prefix + i + "@example.com", prefix + "-uid-" + i, role));
+            if (batch.size() == SEED_BATCH_SIZE || i == count - 1) {
+                userRepository.saveAll(batch).forEach(user -> ids.add(user.getId()));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    @Nested
+    @DisplayName("Load Scenarios")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class LoadScenarios {
+
+        @Test
+        @Order(1)
+        @DisplayName("Get user by id under concurrent load")
+        void getUserById() throws Exception {
+            LoadResult result = run(WARMUP_REQUESTS, REQUESTS,
+                    i -> get("/api/v1/users/" + readUserIds.get(i % readUserIds.size()))
+                            .header("Authorization", "Bearer " + userToken()), 200);
+            checkBaseline("getById", REQUESTS, result);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("Get users by role under concurrent load")
+        void getUsersByRole() throws Exception {
+            UserRole[] roles = {UserRole.USER, UserRole.MODERATOR, UserRole.ADMIN};
+            LoadResult result = run(ROLE_WARMUP_REQUESTS, ROLE_REQUESTS,
+                    i -> get("/api/v1/users/role/" + roles[i % roles.length])
+                            .header("Authorization", "Bearer " + adminToken()), 200);
+            checkBaseline("getByRole", ROLE_REQUESTS, result);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("Delete users under concurrent load")
+        void deleteUsers() throws Exception {
+            LoadResult result = run(WARMUP_REQUESTS, REQUESTS,
+                    i -> delete("/api/v1/users/" + deleteUserIds.get(i))
+                            .header("Authorization", "Bearer " + adminToken()), 204);
+            checkBaseline("delete", REQUESTS, result);
+        }
+    }
+
+    /**
+     * Sends {@code warmup} untimed requests, then {@code requests} timed ones. The request
+     * function is called with indices {@code 0..warmup+requests-1}, so each index is used once.
+     */
+    private LoadResult run(int warmup, int requests, IntFunction<RequestBuilder> request, int expectedStatus)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            if (warmup > 0) {
+                execute(executor, 0, warmup, request, expectedStatus, new long[warmup]);
+            }
+
+            long[] latencies = new long[requests];
+            long start = System.nanoTime();
+            execute(executor, warmup, requests, request, expectedStatus, latencies);
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            return new LoadResult(
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    percentile(latencies, 0.999),
+                    requests * 1_000_000_000.0 / elapsed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(ExecutorService executor, int offset, int requests, IntFunction<RequestBuilder> request,
+                         int expectedStatus, long[] latencies) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        List<Future<?>> workers = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    // Built outside the timed section so an occasional token re-mint is not measured
+                    RequestBuilder builder = request.apply(offset + i);
+                    long begin = System.nanoTime();
+                    int status = mockMvc.perform(builder).andReturn().getResponse().getStatus();
+                    latencies[i] = System.nanoTime() - begin;
+                    if (status != expectedStatus) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+
+        assertEquals(0, failures.get(), "Requests returned an unexpected status");
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private void checkBaseline(String scenario, int requests, LoadResult result) throws IOException {
+        log.info("{}: p50={} ms, p99={} ms, p999={} ms, throughput={} req/s",
+                scenario, result.p50(), result.p99(), result.p999(), result.throughput());
+
+        Properties baseline = new Properties();
+        if (Files.exists(BASELINE)) {
+            try (InputStream in = Files.newInputStream(BASELINE)) {
+                baseline.load(in);
+            }
+        }
+
+        // Baselines are only comparable for the same volumes and concurrency
+        String key = String.format("%s.u%d.m%d.t%d.r%d", scenario, USERS, MODERATORS, THREADS, requests);
+        String p99Key = key + ".p99";
+        String throughputKey = key + ".throughput";
+
+        if (RECORD_BASELINE) {
+            baseline.setProperty(p99Key, String.valueOf(result.p99()));
+            baseline.setProperty(throughputKey, String.valueOf(result.throughput()));
+            if (BASELINE.getParent() != null) {
+                Files.createDirectories(BASELINE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(BASELINE)) {
+                baseline.store(out, "User endpoint load-test baseline");
+            }
+            log.info("Recorded baseline {} to {}", key, BASELINE);
+            return;
+        }
+
+        if (!baseline.containsKey(p99Key) || !baseline.containsKey(throughputKey)) {
+            fail(String.format("No baseline for %s in %s; run with -Dload.recordBaseline=true to record one",
+                    key, BASELINE));
+        }
+
+        double baselineP99 = Double.parseDouble(baseline.getProperty(p99Key));
+        double baselineThroughput = Double.parseDouble(baseline.getProperty(throughputKey));
+        assertTrue(result.p99() <= baselineP99 * (1 + TOLERANCE),
+                String.format("%s p99 regressed: %.2f ms vs baseline %.2f ms", key, result.p99(), baselineP99));
+        assertTrue(result.throughput() >= baselineThroughput * (1 - TOLERANCE),
+                String.format("%s throughput regressed: %.1f req/s vs baseline %.1f req/s",
+                        key, result.throughput(), baselineThroughput));
+    }
+
+    private record LoadResult(double p50, double p99, double p999, double throughput) {
+    }
+}